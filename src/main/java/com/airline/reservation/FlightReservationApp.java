@@ -97,6 +97,11 @@ public class FlightReservationApp {
 
             if (flights.isEmpty()) {
                 System.out.println("\nNo flights found for " + destination + " on " + dateStr);
+                List<String> suggestions = flightService.findDestinationsByPrefix(destination);
+                suggestions.removeIf(name -> name.equalsIgnoreCase(destination));
+                if (!suggestions.isEmpty()) {
+                    System.out.println("Matching destinations: " + String.join(", ", suggestions));
+                }
             } else {
                 System.out.println("\nAvailable Flights:");
                 System.out.println("--------------------------------------------------");
@@ -130,10 +135,7 @@ public class FlightReservationApp {
 
         try {
             // Find the flight
-            Flight flight = flightService.getAllFlights().stream()
-                    .filter(f -> f.getFlightNumber().equalsIgnoreCase(flightNumber))
-                    .findFirst()
-                    .orElse(null);
+            Flight flight = flightService.findFlightByNumber(flightNumber);
 
             if (flight == null) {
                 System.out.println("\nFlight not found. Please check the flight number.");
@@ -11,7 +11,8 @@ public class Flight {
     private final String flightNumber;
     private final String destination;
     private final LocalDateTime departureTime;
-    private int availableSeats;
+    // Volatile so searches see bookings without taking the booking lock
+    private volatile int availableSeats;
 
     public Flight(String flightNumber, String destination, LocalDateTime departureTime, int availableSeats) {
         if (flightNumber == null || flightNumber.trim().isEmpty()) {
@@ -6,30 +6,64 @@ import com.airline.reservation.model.Reservation;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
  * Service class that manages flight searches and reservations.
- * Thread-safe for concurrent booking operations.
+ * Thread-safe: adding flights and booking are synchronized on this instance.
+ * Flight queries read concurrent indexes without locking, since flights are
+ * only added, never removed. Reservation queries share a read lock that
+ * bookings take for writing.
+ * Destinations, flight numbers and customer names are interned into this
+ * service's own symbol tables, so lookups compare int IDs instead of strings.
  */
 public class FlightService {
     private final List<Flight> flights;
+    private final Set<Flight> flightSet;
     private final List<Reservation> reservations;
+    private final SymbolTable destinations;
+    private final SymbolTable flightNumbers;
+    private final SymbolTable customers;
+    private final Map<Integer, Queue<Flight>> flightsByDestination;
+    private final Map<Integer, Flight> flightsByNumber;
+    private final Map<Integer, List<Reservation>> reservationsByCustomer;
+    private final ReadWriteLock reservationsLock;
 
     public FlightService() {
         this.flights = new ArrayList<>();
+        this.flightSet = new HashSet<>();
         this.reservations = new ArrayList<>();
+        this.destinations = new SymbolTable();
+        this.flightNumbers = new SymbolTable();
+        this.customers = new SymbolTable();
+        this.flightsByDestination = new ConcurrentHashMap<>();
+        this.flightsByNumber = new ConcurrentHashMap<>();
+        this.reservationsByCustomer = new HashMap<>();
+        this.reservationsLock = new ReentrantReadWriteLock();
     }
 
     /**
      * Adds a flight to the system.
      */
-    public void addFlight(Flight flight) {
+    public synchronized void addFlight(Flight flight) {
         if (flight == null) {
             throw new IllegalArgumentException("Flight cannot be null");
         }
         flights.add(flight);
+        flightSet.add(flight);
+        flightsByDestination.computeIfAbsent(destinations.intern(flight.getDestination()), id -> new ConcurrentLinkedQueue<>())
+                .add(flight);
+        flightsByNumber.putIfAbsent(flightNumbers.intern(flight.getFlightNumber()), flight);
     }
 
     /**
@@ -47,10 +81,13 @@ public class FlightService {
             throw new IllegalArgumentException("Date cannot be null");
         }
 
+        Queue<Flight> candidates = flightsByDestination.get(destinations.lookup(destination));
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
         LocalDate searchDate = date.toLocalDate();
         
-        return flights.stream()
-                .filter(flight -> flight.getDestination().equalsIgnoreCase(destination))
+        return candidates.stream()
                 .filter(flight -> flight.getDepartureTime().toLocalDate().equals(searchDate))
                 .filter(flight -> flight.getAvailableSeats() > 0)
                 .collect(Collectors.toList());
@@ -76,7 +113,7 @@ public class FlightService {
         if (seats <= 0) {
             throw new IllegalArgumentException("Must book at least one seat");
         }
-        if (!flights.contains(flight)) {
+        if (!flightSet.contains(flight)) {
             throw new IllegalArgumentException("Flight not found in the system");
         }
         if (flight.getAvailableSeats() < seats) {
@@ -90,7 +127,14 @@ public class FlightService {
 
         // Create and store reservation
         Reservation reservation = new Reservation(customerName, flight, seats);
-        reservations.add(reservation);
+        reservationsLock.writeLock().lock();
+        try {
+            reservations.add(reservation);
+            reservationsByCustomer.computeIfAbsent(customers.intern(customerName), id -> new ArrayList<>())
+                    .add(reservation);
+        } finally {
+            reservationsLock.writeLock().unlock();
+        }
 
         return reservation;
     }
@@ -106,15 +150,47 @@ public class FlightService {
             throw new IllegalArgumentException("Customer name cannot be null or empty");
         }
 
-        return reservations.stream()
-                .filter(reservation -> reservation.getCustomerName().equalsIgnoreCase(customerName))
-                .collect(Collectors.toList());
+        reservationsLock.readLock().lock();
+        try {
+            List<Reservation> matches = reservationsByCustomer.get(customers.lookup(customerName));
+            return matches == null ? new ArrayList<>() : new ArrayList<>(matches);
+        } finally {
+            reservationsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds a flight by its flight number, ignoring case.
+     * 
+     * @param flightNumber The flight number to look up
+     * @return The matching flight, or null if none exists
+     */
+    public Flight findFlightByNumber(String flightNumber) {
+        if (flightNumber == null || flightNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Flight number cannot be null or empty");
+        }
+
+        return flightsByNumber.get(flightNumbers.lookup(flightNumber));
+    }
+
+    /**
+     * Finds destination names starting with the given prefix, ignoring case.
+     * 
+     * @param prefix The prefix to match, e.g. "new"
+     * @return Destination names in alphabetical order, spelled as first added
+     */
+    public List<String> findDestinationsByPrefix(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix cannot be null");
+        }
+
+        return destinations.findByPrefix(prefix);
     }
 
     /**
      * Gets all flights in the system (primarily for testing purposes).
      */
-    public List<Flight> getAllFlights() {
+    public synchronized List<Flight> getAllFlights() {
         return new ArrayList<>(flights);
     }
 
@@ -122,6 +198,11 @@ public class FlightService {
      * Gets all reservations in the system (primarily for testing purposes).
      */
     public List<Reservation> getAllReservations() {
-        return new ArrayList<>(reservations);
+        reservationsLock.readLock().lock();
+        try {
+            return new ArrayList<>(reservations);
+        } finally {
+            reservationsLock.readLock().unlock();
+        }
     }
 }
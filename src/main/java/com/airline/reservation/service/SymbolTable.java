@@ -0,0 +1,91 @@
+package com.airline.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Case-insensitive symbol table that maps names to compact int IDs.
+ * Names are case folded once when interned, so callers can compare IDs
+ * instead of calling equalsIgnoreCase on every element.
+ * Thread-safe; IDs are never reused.
+ */
+final class SymbolTable {
+    /** Returned by {@link #lookup(String)} when a name has never been interned. */
+    static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids;
+    private final NavigableMap<String, String> namesByKey;
+    private final AtomicInteger nextId;
+
+    SymbolTable() {
+        this.ids = new ConcurrentHashMap<>();
+        this.namesByKey = new ConcurrentSkipListMap<>();
+        this.nextId = new AtomicInteger();
+    }
+
+    /**
+     * Returns the ID for the given name, assigning a new one if needed.
+     * The first spelling seen is kept as the display name.
+     */
+    int intern(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        String key = normalize(name);
+        return ids.computeIfAbsent(key, k -> {
+            namesByKey.putIfAbsent(k, name);
+            return nextId.getAndIncrement();
+        });
+    }
+
+    /**
+     * Returns the ID for the given name without interning it.
+     *
+     * @return The ID, or {@link #UNKNOWN} if the name has never been interned
+     */
+    int lookup(String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        Integer id = ids.get(normalize(name));
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Finds interned names starting with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix to match
+     * @return Display names in case-insensitive alphabetical order
+     */
+    List<String> findByPrefix(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix cannot be null");
+        }
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new ArrayList<>(namesByKey.values());
+        }
+        return new ArrayList<>(namesByKey.subMap(key, true, key + Character.MAX_VALUE, false).values());
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    /**
+     * Folds each character the same way String.equalsIgnoreCase compares them,
+     * so two names get the same ID exactly when they are equal ignoring case.
+     */
+    static String normalize(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
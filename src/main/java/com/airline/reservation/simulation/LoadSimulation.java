@@ -0,0 +1,267 @@
+package com.airline.reservation.simulation;
+
+import com.airline.reservation.model.Flight;
+import com.airline.reservation.model.Reservation;
+import com.airline.reservation.service.FlightService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Replays a seeded workload against FlightService from many threads and checks
+ * that seat accounting still adds up afterwards.
+ *
+ * The schedule and the operation sequence are fully determined by the config.
+ * With more than one thread the interleaving is not, so which bookings win a
+ * sold-out flight can differ between runs; the invariants must hold regardless.
+ *
+ * Usage: {@code java -cp target/classes com.airline.reservation.simulation.LoadSimulation
+ * [--seed=42] [--threads=8] [--virtual] [--operations=200000] [--flights=500] [--days=14]
+ * [--customers=5000] [--search=70] [--book=20] [--zipf=1.0]}
+ */
+public class LoadSimulation {
+    private final SimulationConfig config;
+
+    public LoadSimulation(SimulationConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    /**
+     * Runs the simulation against a fresh FlightService.
+     *
+     * @throws IllegalStateException if virtual threads are requested on a JVM that lacks them
+     */
+    public SimulationReport run() throws InterruptedException {
+        FlightService flightService = new FlightService();
+        List<Flight> flights = new ScheduleGenerator(config).generate();
+        Map<Flight, Integer> initialSeats = new IdentityHashMap<>();
+        for (Flight flight : flights) {
+            flightService.addFlight(flight);
+            initialSeats.put(flight, flight.getAvailableSeats());
+        }
+
+        List<List<Operation>> workload = new WorkloadGenerator(config, flights).generate();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Worker> workers = new ArrayList<>(workload.size());
+        List<Thread> threads = new ArrayList<>(workload.size());
+        for (List<Operation> operations : workload) {
+            Worker worker = new Worker(flightService, operations, startGate);
+            workers.add(worker);
+            threads.add(newThread(worker));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        return buildReport(flightService, initialSeats, workers, elapsedNanos);
+    }
+
+    private Thread newThread(Runnable runnable) {
+        if (!config.isVirtualThreads()) {
+            return new Thread(runnable);
+        }
+        // Looked up reflectively so the project still compiles for Java 11
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (Thread) Class.forName("java.lang.Thread$Builder")
+                    .getMethod("unstarted", Runnable.class)
+                    .invoke(builder, runnable);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    private SimulationReport buildReport(FlightService flightService, Map<Flight, Integer> initialSeats,
+                                         List<Worker> workers, long elapsedNanos) {
+        Map<Operation.Type, long[]> latencies = new EnumMap<>(Operation.Type.class);
+        for (Operation.Type type : Operation.Type.values()) {
+            int count = 0;
+            for (Worker worker : workers) {
+                count += worker.counts[type.ordinal()];
+            }
+            long[] merged = new long[count];
+            int offset = 0;
+            for (Worker worker : workers) {
+                int n = worker.counts[type.ordinal()];
+                System.arraycopy(worker.latencies[type.ordinal()], 0, merged, offset, n);
+                offset += n;
+            }
+            latencies.put(type, merged);
+        }
+
+        int bookingsSucceeded = 0;
+        int bookingsRejected = 0;
+        int errors = 0;
+        long seatsBooked = 0;
+        List<String> violations = new ArrayList<>();
+        for (Worker worker : workers) {
+            bookingsSucceeded += worker.bookingsSucceeded;
+            bookingsRejected += worker.bookingsRejected;
+            errors += worker.errors;
+            seatsBooked += worker.seatsBooked;
+            if (worker.firstError != null) {
+                violations.add("Unexpected error: " + worker.firstError);
+            }
+        }
+
+        checkInvariants(flightService, initialSeats, bookingsSucceeded, seatsBooked, violations);
+        return new SimulationReport(config, elapsedNanos, latencies,
+                bookingsSucceeded, bookingsRejected, errors, violations);
+    }
+
+    /**
+     * Checks that the seats taken from each flight match the reservations recorded
+     * against it. Flight.reduceSeats never lets seats go negative, so a racing
+     * booking shows up here as a mismatch rather than as a negative seat count.
+     */
+    private static void checkInvariants(FlightService flightService, Map<Flight, Integer> initialSeats,
+                                        int bookingsSucceeded, long seatsBooked, List<String> violations) {
+        List<Reservation> reservations = flightService.getAllReservations();
+        Map<Flight, Long> reservedSeats = new IdentityHashMap<>();
+        for (Reservation reservation : reservations) {
+            if (!initialSeats.containsKey(reservation.getFlight())) {
+                violations.add("Reservation " + reservation.getReservationId() + " is for an unknown flight");
+                continue;
+            }
+            reservedSeats.merge(reservation.getFlight(), (long) reservation.getSeatsBooked(), Long::sum);
+        }
+
+        long seatsTaken = 0;
+        for (Map.Entry<Flight, Integer> entry : initialSeats.entrySet()) {
+            Flight flight = entry.getKey();
+            long taken = entry.getValue() - flight.getAvailableSeats();
+            long reserved = reservedSeats.getOrDefault(flight, 0L);
+            if (taken != reserved) {
+                violations.add(String.format("Flight %s overbooked or lost an update: %d seats taken but %d reserved",
+                        flight.getFlightNumber(), taken, reserved));
+            }
+            seatsTaken += taken;
+        }
+
+        if (reservations.size() != bookingsSucceeded) {
+            violations.add(String.format("%d bookings succeeded but %d reservations exist",
+                    bookingsSucceeded, reservations.size()));
+        }
+        if (seatsTaken != seatsBooked) {
+            violations.add(String.format("%d seats were booked but %d seats were taken from flights",
+                    seatsBooked, seatsTaken));
+        }
+    }
+
+    /**
+     * Runs one thread's share of the workload and records per-call latency.
+     */
+    private static class Worker implements Runnable {
+        private final FlightService flightService;
+        private final List<Operation> operations;
+        private final CountDownLatch startGate;
+        private final long[][] latencies;
+        private final int[] counts;
+        private int bookingsSucceeded;
+        private int bookingsRejected;
+        private int errors;
+        private long seatsBooked;
+        private String firstError;
+
+        Worker(FlightService flightService, List<Operation> operations, CountDownLatch startGate) {
+            this.flightService = flightService;
+            this.operations = operations;
+            this.startGate = startGate;
+            this.latencies = new long[Operation.Type.values().length][operations.size()];
+            this.counts = new int[Operation.Type.values().length];
+        }
+
+        @Override
+        public void run() {
+            try {
+                startGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            for (Operation operation : operations) {
+                long start = System.nanoTime();
+                try {
+                    execute(operation);
+                } catch (RuntimeException e) {
+                    errors++;
+                    if (firstError == null) {
+                        firstError = e.toString();
+                    }
+                }
+                int type = operation.getType().ordinal();
+                latencies[type][counts[type]++] = System.nanoTime() - start;
+            }
+
+            // Trim unused capacity so merging only copies recorded values
+            for (int type = 0; type < latencies.length; type++) {
+                latencies[type] = Arrays.copyOf(latencies[type], counts[type]);
+            }
+        }
+
+        private void execute(Operation operation) {
+            switch (operation.getType()) {
+                case SEARCH:
+                    flightService.searchFlights(operation.getDestination(), operation.getDate());
+                    break;
+                case BOOK:
+                    Flight flight = flightService.findFlightByNumber(operation.getFlightNumber());
+                    try {
+                        flightService.bookFlight(operation.getCustomerName(), flight, operation.getSeats());
+                    } catch (IllegalStateException e) {
+                        // Sold out: an expected outcome, not an error
+                        bookingsRejected++;
+                        break;
+                    }
+                    bookingsSucceeded++;
+                    seatsBooked += operation.getSeats();
+                    break;
+                case VIEW:
+                    flightService.getReservationsByCustomer(operation.getCustomerName());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operation type: " + operation.getType());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SimulationConfig config;
+        try {
+            config = SimulationConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        SimulationReport report;
+        try {
+            report = new LoadSimulation(config).run();
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        System.out.print(report);
+        if (!report.passed()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.airline.reservation.simulation;
+
+import com.airline.reservation.model.Flight;
+import com.airline.reservation.model.Reservation;
+import com.airline.reservation.service.FlightService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Single-threaded latency benchmark for the indexed FlightService lookups against
+ * the original linear scans that call equalsIgnoreCase on every element.
+ *
+ * The data set comes from the same seeded schedule and workload generators as
+ * LoadSimulation: bookings in the workload populate the reservations, and its
+ * searches, reservation lookups and booked flight numbers become the queries.
+ * Both variants answer the same queries and must return the same result sizes.
+ *
+ * Usage: {@code java -cp target/classes com.airline.reservation.simulation.LookupBenchmark
+ * [--seed=42] [--flights=500] [--days=14] [--customers=5000] [--operations=200000] [--zipf=1.0]}
+ */
+public class LookupBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+
+    private final SimulationConfig config;
+
+    public LookupBenchmark(SimulationConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        // One worker keeps the whole workload in generation order
+        this.config = new SimulationConfig(config.getSeed(), config.getFlights(), config.getDays(),
+                config.getCustomers(), config.getOperations(), 1, false,
+                config.getSearchPercent(), config.getBookPercent(), config.getZipfExponent());
+    }
+
+    /**
+     * Builds the data set, runs every benchmark and returns the formatted results.
+     *
+     * @throws IllegalStateException if a baseline scan and an indexed lookup disagree
+     */
+    public String run() {
+        FlightService flightService = new FlightService();
+        List<Flight> schedule = new ScheduleGenerator(config).generate();
+        for (Flight flight : schedule) {
+            flightService.addFlight(flight);
+        }
+
+        List<Operation> searches = new ArrayList<>();
+        List<String> customers = new ArrayList<>();
+        List<String> flightNumbers = new ArrayList<>();
+        for (Operation operation : new WorkloadGenerator(config, schedule).generate().get(0)) {
+            switch (operation.getType()) {
+                case SEARCH:
+                    searches.add(operation);
+                    break;
+                case BOOK:
+                    Flight flight = flightService.findFlightByNumber(operation.getFlightNumber());
+                    if (flight.getAvailableSeats() >= operation.getSeats()) {
+                        flightService.bookFlight(operation.getCustomerName(), flight, operation.getSeats());
+                    }
+                    flightNumbers.add(operation.getFlightNumber().toLowerCase(Locale.ROOT));
+                    break;
+                case VIEW:
+                    customers.add(operation.getCustomerName().toUpperCase(Locale.ROOT));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operation type: " + operation.getType());
+            }
+        }
+
+        // Baseline scans run over plain snapshots so list copying is not timed
+        List<Flight> flights = flightService.getAllFlights();
+        List<Reservation> reservations = flightService.getAllReservations();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Config: %s%n", config));
+        sb.append(String.format("Data: %d flights, %d reservations%n", flights.size(), reservations.size()));
+        sb.append(String.format("%-26s %-9s %9s %10s %10s %10s%n",
+                "Method", "Variant", "Queries", "Mean ns", "p50 ns", "p99 ns"));
+
+        compare(sb, "searchFlights", searches,
+                op -> baselineSearch(flights, op).size(),
+                op -> flightService.searchFlights(op.getDestination(), op.getDate()).size());
+        compare(sb, "getReservationsByCustomer", customers,
+                name -> baselineReservations(reservations, name).size(),
+                name -> flightService.getReservationsByCustomer(name).size());
+        compare(sb, "findFlightByNumber", flightNumbers,
+                number -> baselineFindFlight(flights, number) == null ? 0 : 1,
+                number -> flightService.findFlightByNumber(number) == null ? 0 : 1);
+        return sb.toString();
+    }
+
+    private static <T> void compare(StringBuilder sb, String method, List<T> queries,
+                                    ToIntFunction<T> baseline, ToIntFunction<T> indexed) {
+        if (queries.isEmpty()) {
+            sb.append(String.format("%-26s (no queries in workload)%n", method));
+            return;
+        }
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            time(queries, baseline);
+            time(queries, indexed);
+        }
+        Timing baselineTiming = time(queries, baseline);
+        Timing indexedTiming = time(queries, indexed);
+        if (baselineTiming.resultCount != indexedTiming.resultCount) {
+            throw new IllegalStateException(String.format("%s returned %d results but the baseline returned %d",
+                    method, indexedTiming.resultCount, baselineTiming.resultCount));
+        }
+        sb.append(baselineTiming.format(method, "baseline"));
+        sb.append(indexedTiming.format(method, "indexed"));
+    }
+
+    private static <T> Timing time(List<T> queries, ToIntFunction<T> query) {
+        long[] latencies = new long[queries.size()];
+        long resultCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < latencies.length; i++) {
+            long callStart = System.nanoTime();
+            resultCount += query.applyAsInt(queries.get(i));
+            latencies[i] = System.nanoTime() - callStart;
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Timing(new SimulationReport.LatencySummary(latencies), elapsed, resultCount);
+    }
+
+    /**
+     * The search FlightService used before destinations were interned.
+     */
+    private static List<Flight> baselineSearch(List<Flight> flights, Operation search) {
+        LocalDate searchDate = search.getDate().toLocalDate();
+        return flights.stream()
+                .filter(flight -> flight.getDestination().equalsIgnoreCase(search.getDestination()))
+                .filter(flight -> flight.getDepartureTime().toLocalDate().equals(searchDate))
+                .filter(flight -> flight.getAvailableSeats() > 0)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The customer lookup FlightService used before customer names were interned.
+     */
+    private static List<Reservation> baselineReservations(List<Reservation> reservations, String customerName) {
+        return reservations.stream()
+                .filter(reservation -> reservation.getCustomerName().equalsIgnoreCase(customerName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The flight-number scan FlightReservationApp used before findFlightByNumber existed.
+     */
+    private static Flight baselineFindFlight(List<Flight> flights, String flightNumber) {
+        return flights.stream()
+                .filter(f -> f.getFlightNumber().equalsIgnoreCase(flightNumber))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static class Timing {
+        private final SimulationReport.LatencySummary latency;
+        private final long elapsedNanos;
+        private final long resultCount;
+
+        Timing(SimulationReport.LatencySummary latency, long elapsedNanos, long resultCount) {
+            this.latency = latency;
+            this.elapsedNanos = elapsedNanos;
+            this.resultCount = resultCount;
+        }
+
+        String format(String method, String variant) {
+            return String.format("%-26s %-9s %9d %10d %10d %10d%n", method, variant, latency.getCount(),
+                    elapsedNanos / latency.getCount(), latency.getP50(), latency.getP99());
+        }
+    }
+
+    public static void main(String[] args) {
+        SimulationConfig config;
+        try {
+            config = SimulationConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        System.out.print(new LookupBenchmark(config).run());
+    }
+}
@@ -0,0 +1,65 @@
+package com.airline.reservation.simulation;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single call against FlightService in a simulated workload.
+ */
+public class Operation {
+    public enum Type {
+        SEARCH, BOOK, VIEW
+    }
+
+    private final Type type;
+    private final String destination;
+    private final LocalDateTime date;
+    private final String flightNumber;
+    private final String customerName;
+    private final int seats;
+
+    private Operation(Type type, String destination, LocalDateTime date,
+                      String flightNumber, String customerName, int seats) {
+        this.type = type;
+        this.destination = destination;
+        this.date = date;
+        this.flightNumber = flightNumber;
+        this.customerName = customerName;
+        this.seats = seats;
+    }
+
+    public static Operation search(String destination, LocalDateTime date) {
+        return new Operation(Type.SEARCH, destination, date, null, null, 0);
+    }
+
+    public static Operation book(String customerName, String flightNumber, int seats) {
+        return new Operation(Type.BOOK, null, null, flightNumber, customerName, seats);
+    }
+
+    public static Operation view(String customerName) {
+        return new Operation(Type.VIEW, null, null, null, customerName, 0);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public String getFlightNumber() {
+        return flightNumber;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+}
@@ -0,0 +1,58 @@
+package com.airline.reservation.simulation;
+
+import com.airline.reservation.model.Flight;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a seeded flight schedule.
+ * Destinations are listed from busiest to quietest, and busier destinations get more flights.
+ */
+public class ScheduleGenerator {
+    static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+    static final String[] DESTINATIONS = {
+            "New York", "Los Angeles", "Chicago", "Atlanta", "Dallas", "Denver",
+            "San Francisco", "Seattle", "Las Vegas", "Orlando", "Miami", "Charlotte",
+            "Phoenix", "Houston", "Boston", "Minneapolis", "Detroit", "Philadelphia",
+            "Washington", "Salt Lake City", "San Diego", "Tampa", "Portland", "Nashville",
+            "Austin", "Honolulu", "New Orleans", "Anchorage", "Albuquerque", "Boise"
+    };
+
+    private static final String[] CARRIERS = {"AA", "DL", "UA", "WN", "AS", "B6"};
+    private static final int[] CAPACITIES = {50, 76, 150, 180, 220, 300};
+
+    private final SimulationConfig config;
+
+    public ScheduleGenerator(SimulationConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    /**
+     * Creates the flights for a run. The same seed always yields the same schedule.
+     */
+    public List<Flight> generate() {
+        Random random = new Random(config.getSeed());
+        ZipfDistribution destinationPopularity =
+                new ZipfDistribution(DESTINATIONS.length, config.getZipfExponent());
+        List<Flight> flights = new ArrayList<>(config.getFlights());
+
+        for (int i = 0; i < config.getFlights(); i++) {
+            String flightNumber = CARRIERS[random.nextInt(CARRIERS.length)] + (1000 + i);
+            String destination = DESTINATIONS[destinationPopularity.sample(random)];
+            LocalDateTime departure = FIRST_DAY.plusDays(random.nextInt(config.getDays()))
+                    .atTime(6 + random.nextInt(17), 5 * random.nextInt(12));
+            int seats = CAPACITIES[random.nextInt(CAPACITIES.length)];
+            flights.add(new Flight(flightNumber, destination, departure, seats));
+        }
+
+        return flights;
+    }
+}
@@ -0,0 +1,184 @@
+package com.airline.reservation.simulation;
+
+/**
+ * Settings for a load simulation run.
+ * Two runs with the same config generate the same schedule and workload.
+ */
+public class SimulationConfig {
+    private final long seed;
+    private final int flights;
+    private final int days;
+    private final int customers;
+    private final int operations;
+    private final int threads;
+    private final boolean virtualThreads;
+    private final int searchPercent;
+    private final int bookPercent;
+    private final double zipfExponent;
+
+    public SimulationConfig(long seed, int flights, int days, int customers, int operations,
+                            int threads, boolean virtualThreads, int searchPercent, int bookPercent,
+                            double zipfExponent) {
+        if (flights <= 0) {
+            throw new IllegalArgumentException("Number of flights must be positive");
+        }
+        if (days <= 0) {
+            throw new IllegalArgumentException("Number of days must be positive");
+        }
+        if (customers <= 0) {
+            throw new IllegalArgumentException("Number of customers must be positive");
+        }
+        if (operations <= 0) {
+            throw new IllegalArgumentException("Number of operations must be positive");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        if (searchPercent < 0 || bookPercent < 0 || searchPercent + bookPercent > 100) {
+            throw new IllegalArgumentException("Search and book percentages must be between 0 and 100 in total");
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("Zipf exponent cannot be negative");
+        }
+
+        this.seed = seed;
+        this.flights = flights;
+        this.days = days;
+        this.customers = customers;
+        this.operations = operations;
+        this.threads = threads;
+        this.virtualThreads = virtualThreads;
+        this.searchPercent = searchPercent;
+        this.bookPercent = bookPercent;
+        this.zipfExponent = zipfExponent;
+    }
+
+    /**
+     * Default traffic mix: 70% search, 20% book, 10% view reservations, on 8 threads.
+     * Nothing here depends on the machine, so runs without options are comparable.
+     */
+    public static SimulationConfig defaults() {
+        return new SimulationConfig(42L, 500, 14, 5_000, 200_000, 8, false, 70, 20, 1.0);
+    }
+
+    /**
+     * Builds a config from command-line options such as {@code --seed=7 --threads=16 --virtual}.
+     * Options that are not given keep their default values.
+     */
+    public static SimulationConfig fromArgs(String[] args) {
+        SimulationConfig d = defaults();
+        long seed = d.seed;
+        int flights = d.flights;
+        int days = d.days;
+        int customers = d.customers;
+        int operations = d.operations;
+        int threads = d.threads;
+        boolean virtualThreads = d.virtualThreads;
+        int searchPercent = d.searchPercent;
+        int bookPercent = d.bookPercent;
+        double zipfExponent = d.zipfExponent;
+
+        for (String arg : args) {
+            if (arg.equals("--virtual")) {
+                virtualThreads = true;
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Invalid option: " + arg);
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            try {
+                switch (key) {
+                    case "seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "flights":
+                        flights = Integer.parseInt(value);
+                        break;
+                    case "days":
+                        days = Integer.parseInt(value);
+                        break;
+                    case "customers":
+                        customers = Integer.parseInt(value);
+                        break;
+                    case "operations":
+                        operations = Integer.parseInt(value);
+                        break;
+                    case "threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "search":
+                        searchPercent = Integer.parseInt(value);
+                        break;
+                    case "book":
+                        bookPercent = Integer.parseInt(value);
+                        break;
+                    case "zipf":
+                        zipfExponent = Double.parseDouble(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: --" + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for --" + key + ": " + value);
+            }
+        }
+
+        return new SimulationConfig(seed, flights, days, customers, operations,
+                threads, virtualThreads, searchPercent, bookPercent, zipfExponent);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getFlights() {
+        return flights;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getSearchPercent() {
+        return searchPercent;
+    }
+
+    public int getBookPercent() {
+        return bookPercent;
+    }
+
+    public int getViewPercent() {
+        return 100 - searchPercent - bookPercent;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed=%d flights=%d days=%d customers=%d operations=%d threads=%d%s "
+                        + "mix=%d/%d/%d zipf=%.2f",
+                seed, flights, days, customers, operations, threads, virtualThreads ? " (virtual)" : "",
+                searchPercent, bookPercent, getViewPercent(), zipfExponent);
+    }
+}
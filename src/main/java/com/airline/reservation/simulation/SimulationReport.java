@@ -0,0 +1,167 @@
+package com.airline.reservation.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a load simulation run: throughput, latency percentiles and invariant checks.
+ */
+public class SimulationReport {
+    private final SimulationConfig config;
+    private final long elapsedNanos;
+    private final Map<Operation.Type, LatencySummary> latencies;
+    private final LatencySummary overall;
+    private final int bookingsSucceeded;
+    private final int bookingsRejected;
+    private final int errors;
+    private final List<String> violations;
+
+    SimulationReport(SimulationConfig config, long elapsedNanos, Map<Operation.Type, long[]> latencyNanos,
+                     int bookingsSucceeded, int bookingsRejected, int errors, List<String> violations) {
+        this.config = config;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = new EnumMap<>(Operation.Type.class);
+        int total = 0;
+        for (Map.Entry<Operation.Type, long[]> entry : latencyNanos.entrySet()) {
+            latencies.put(entry.getKey(), new LatencySummary(entry.getValue()));
+            total += entry.getValue().length;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] values : latencyNanos.values()) {
+            System.arraycopy(values, 0, all, offset, values.length);
+            offset += values.length;
+        }
+        this.overall = new LatencySummary(all);
+        this.bookingsSucceeded = bookingsSucceeded;
+        this.bookingsRejected = bookingsRejected;
+        this.errors = errors;
+        this.violations = Collections.unmodifiableList(new ArrayList<>(violations));
+    }
+
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Completed operations per second over the whole run.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : overall.getCount() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public LatencySummary getLatency(Operation.Type type) {
+        return latencies.get(type);
+    }
+
+    public LatencySummary getOverallLatency() {
+        return overall;
+    }
+
+    public int getBookingsSucceeded() {
+        return bookingsSucceeded;
+    }
+
+    /**
+     * Bookings turned away because the flight did not have enough seats left.
+     */
+    public int getBookingsRejected() {
+        return bookingsRejected;
+    }
+
+    /**
+     * Operations that failed with anything other than a sold-out rejection.
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public boolean passed() {
+        return violations.isEmpty() && errors == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Config: %s%n", config));
+        sb.append(String.format("Elapsed: %.1f ms, throughput: %.0f ops/s%n",
+                elapsedNanos / 1_000_000.0, getThroughput()));
+        sb.append(String.format("%-8s %10s %10s %10s %10s %10s%n", "Op", "Count", "p50 us", "p99 us", "p999 us", "Max us"));
+        for (Map.Entry<Operation.Type, LatencySummary> entry : latencies.entrySet()) {
+            sb.append(entry.getValue().format(entry.getKey().name()));
+        }
+        sb.append(overall.format("ALL"));
+        sb.append(String.format("Bookings: %d succeeded, %d rejected (sold out), %d errors%n",
+                bookingsSucceeded, bookingsRejected, errors));
+        if (violations.isEmpty()) {
+            sb.append(String.format("Invariants: OK%n"));
+        } else {
+            sb.append(String.format("Invariants: %d violation(s)%n", violations.size()));
+            for (String violation : violations) {
+                sb.append("  ").append(violation).append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Nearest-rank latency percentiles for one kind of operation.
+     */
+    public static class LatencySummary {
+        private final long[] sorted;
+
+        LatencySummary(long[] latencyNanos) {
+            this.sorted = latencyNanos.clone();
+            Arrays.sort(sorted);
+        }
+
+        public int getCount() {
+            return sorted.length;
+        }
+
+        /**
+         * @param percentile A value between 0 and 100, e.g. 99.9
+         * @return The latency in nanoseconds, or 0 if nothing was recorded
+         */
+        public long percentile(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, Math.min(rank, sorted.length) - 1)];
+        }
+
+        public long getP50() {
+            return percentile(50);
+        }
+
+        public long getP99() {
+            return percentile(99);
+        }
+
+        public long getP999() {
+            return percentile(99.9);
+        }
+
+        public long getMax() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+
+        private String format(String label) {
+            return String.format("%-8s %10d %10.1f %10.1f %10.1f %10.1f%n", label, getCount(),
+                    getP50() / 1000.0, getP99() / 1000.0, getP999() / 1000.0, getMax() / 1000.0);
+        }
+    }
+}
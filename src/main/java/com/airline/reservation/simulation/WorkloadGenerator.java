@@ -0,0 +1,89 @@
+package com.airline.reservation.simulation;
+
+import com.airline.reservation.model.Flight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates a seeded, Zipf-skewed mix of search, book and view-reservation calls.
+ * A few destinations, flights and customers receive most of the traffic.
+ */
+public class WorkloadGenerator {
+    private final SimulationConfig config;
+    private final List<Flight> flights;
+
+    public WorkloadGenerator(SimulationConfig config, List<Flight> flights) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        if (flights == null || flights.isEmpty()) {
+            throw new IllegalArgumentException("Flights cannot be null or empty");
+        }
+        this.config = config;
+        this.flights = flights;
+    }
+
+    /**
+     * Creates the operations for a run and deals them round-robin to each worker.
+     * The overall sequence depends only on the config, not on the number of threads.
+     *
+     * @return One list of operations per worker thread
+     */
+    public List<List<Operation>> generate() {
+        // Offset the seed so the workload does not replay the schedule's random stream
+        Random random = new Random(config.getSeed() * 31 + 17);
+        ZipfDistribution destinationPopularity = new ZipfDistribution(
+                ScheduleGenerator.DESTINATIONS.length, config.getZipfExponent());
+        ZipfDistribution flightPopularity = new ZipfDistribution(flights.size(), config.getZipfExponent());
+        ZipfDistribution customerActivity = new ZipfDistribution(config.getCustomers(), config.getZipfExponent());
+
+        List<List<Operation>> workers = new ArrayList<>(config.getThreads());
+        for (int t = 0; t < config.getThreads(); t++) {
+            workers.add(new ArrayList<>(config.getOperations() / config.getThreads() + 1));
+        }
+
+        for (int i = 0; i < config.getOperations(); i++) {
+            int roll = random.nextInt(100);
+            Operation operation;
+            if (roll < config.getSearchPercent()) {
+                String destination = ScheduleGenerator.DESTINATIONS[destinationPopularity.sample(random)];
+                // Users do not always type names in the canonical case
+                if (random.nextInt(4) == 0) {
+                    destination = destination.toLowerCase(Locale.ROOT);
+                }
+                operation = Operation.search(destination,
+                        ScheduleGenerator.FIRST_DAY.plusDays(random.nextInt(config.getDays())).atStartOfDay());
+            } else if (roll < config.getSearchPercent() + config.getBookPercent()) {
+                Flight flight = flights.get(flightPopularity.sample(random));
+                operation = Operation.book(customerName(customerActivity.sample(random)),
+                        flight.getFlightNumber(), seatCount(random));
+            } else {
+                operation = Operation.view(customerName(customerActivity.sample(random)));
+            }
+            workers.get(i % config.getThreads()).add(operation);
+        }
+
+        return workers;
+    }
+
+    private static String customerName(int index) {
+        return String.format("Passenger %05d", index);
+    }
+
+    /**
+     * Most bookings are for one or two travellers.
+     */
+    private static int seatCount(Random random) {
+        int roll = random.nextInt(10);
+        if (roll < 5) {
+            return 1;
+        }
+        if (roll < 8) {
+            return 2;
+        }
+        return roll < 9 ? 3 : 4;
+    }
+}
@@ -0,0 +1,44 @@
+package com.airline.reservation.simulation;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples ranks 0..n-1 where rank k is drawn with probability proportional
+ * to 1 / (k + 1)^exponent. Rank 0 is the most popular item.
+ */
+public class ZipfDistribution {
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Number of items must be positive");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Exponent cannot be negative");
+        }
+
+        this.cumulative = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= total;
+        }
+    }
+
+    /**
+     * Draws a rank using the given random source.
+     */
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -7,7 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -215,4 +220,89 @@ class FlightServiceTest {
             flightService.addFlight(null)
         );
     }
+
+    @Test
+    @DisplayName("Find flight by number is case insensitive")
+    void testFindFlightByNumber_CaseInsensitive_ReturnsFlight() {
+        assertEquals(testFlight2, flightService.findFlightByNumber("aa102"));
+    }
+
+    @Test
+    @DisplayName("Find flight by unknown number returns null")
+    void testFindFlightByNumber_UnknownNumber_ReturnsNull() {
+        assertNull(flightService.findFlightByNumber("ZZ000"));
+    }
+
+    @Test
+    @DisplayName("Find destinations by prefix only returns destinations in this system")
+    void testFindDestinationsByPrefix_ReturnsOwnDestinations() {
+        FlightService otherService = new FlightService();
+        otherService.addFlight(new Flight("ZZ001", "Newcastle", tomorrow, 10));
+        otherService.addFlight(new Flight("ZZ002", "NEW YORK", tomorrow, 10));
+
+        assertEquals(List.of("New York"), flightService.findDestinationsByPrefix("new"));
+        assertEquals(List.of("NEW YORK", "Newcastle"), otherService.findDestinationsByPrefix("new"));
+    }
+
+    @Test
+    @DisplayName("Reservations made in another service are not visible")
+    void testGetReservationsByCustomer_OtherService_ReturnsEmptyList() {
+        FlightService otherService = new FlightService();
+        Flight otherFlight = new Flight("ZZ003", "Boston", tomorrow, 10);
+        otherService.addFlight(otherFlight);
+        otherService.bookFlight("John Doe", otherFlight, 1);
+
+        assertTrue(flightService.getReservationsByCustomer("John Doe").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search flights for destination never seen returns empty list")
+    void testSearchFlights_UnknownDestination_ReturnsEmptyList() {
+        List<Flight> results = flightService.searchFlights("Atlantis", tomorrow);
+
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Concurrent bookings and reservation lookups do not interfere")
+    void testBookFlight_ConcurrentWithLookups_NoErrors() throws Exception {
+        Flight bigFlight = new Flight("AA500", "Denver", tomorrow, 4_000);
+        flightService.addFlight(bigFlight);
+        int threads = 8;
+        int bookingsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                String customer = "Customer" + t;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    for (int i = 0; i < bookingsPerThread; i++) {
+                        flightService.bookFlight(customer, bigFlight, 1);
+                    }
+                    return null;
+                }));
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    for (int i = 0; i < bookingsPerThread; i++) {
+                        flightService.getReservationsByCustomer(customer);
+                        flightService.searchFlights("Denver", tomorrow);
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, bigFlight.getAvailableSeats());
+        assertEquals(threads * bookingsPerThread, flightService.getAllReservations().size());
+        assertEquals(bookingsPerThread, flightService.getReservationsByCustomer("Customer0").size());
+    }
 }
@@ -0,0 +1,82 @@
+package com.airline.reservation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SymbolTable class.
+ */
+class SymbolTableTest {
+    private SymbolTable symbolTable;
+
+    @BeforeEach
+    void setUp() {
+        symbolTable = new SymbolTable();
+    }
+
+    @Test
+    @DisplayName("Interning names that differ only in case returns the same ID")
+    void testIntern_DifferentCase_ReturnsSameId() {
+        int id = symbolTable.intern("New York");
+
+        assertEquals(id, symbolTable.intern("NEW YORK"));
+        assertEquals(id, symbolTable.intern("new york"));
+        assertEquals(1, symbolTable.size());
+    }
+
+    @Test
+    @DisplayName("Interning different names returns different IDs")
+    void testIntern_DifferentNames_ReturnsDifferentIds() {
+        assertNotEquals(symbolTable.intern("Miami"), symbolTable.intern("Seattle"));
+    }
+
+    @Test
+    @DisplayName("Lookup of unknown name returns UNKNOWN without interning it")
+    void testLookup_UnknownName_ReturnsUnknown() {
+        assertEquals(SymbolTable.UNKNOWN, symbolTable.lookup("Boston"));
+        assertEquals(0, symbolTable.size());
+    }
+
+    @Test
+    @DisplayName("Lookup is case insensitive")
+    void testLookup_CaseInsensitive_ReturnsInternedId() {
+        int id = symbolTable.intern("Los Angeles");
+
+        assertEquals(id, symbolTable.lookup("LOS angeles"));
+    }
+
+    @Test
+    @DisplayName("Find by prefix returns display names in alphabetical order")
+    void testFindByPrefix_MatchingPrefix_ReturnsSortedNames() {
+        symbolTable.intern("Newark");
+        symbolTable.intern("New York");
+        symbolTable.intern("new york");
+        symbolTable.intern("Miami");
+
+        List<String> results = symbolTable.findByPrefix("NEW");
+
+        assertEquals(Arrays.asList("New York", "Newark"), results);
+    }
+
+    @Test
+    @DisplayName("Find by prefix with no matches returns empty list")
+    void testFindByPrefix_NoMatches_ReturnsEmptyList() {
+        symbolTable.intern("Chicago");
+
+        assertTrue(symbolTable.findByPrefix("Bos").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Intern null name throws exception")
+    void testIntern_NullName_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            symbolTable.intern(null)
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.airline.reservation.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LoadSimulation and its workload generation.
+ */
+class LoadSimulationTest {
+
+    private static SimulationConfig smallConfig(int threads) {
+        // Few flights and heavy booking so that many flights sell out
+        return new SimulationConfig(7L, 20, 3, 200, 5_000, threads, false, 40, 50, 1.0);
+    }
+
+    @Test
+    @DisplayName("Single-threaded runs with the same seed produce identical outcomes")
+    void testRun_SameSeedSingleThread_IsReproducible() throws InterruptedException {
+        SimulationReport first = new LoadSimulation(smallConfig(1)).run();
+        SimulationReport second = new LoadSimulation(smallConfig(1)).run();
+
+        assertTrue(first.passed(), first.toString());
+        assertEquals(first.getBookingsSucceeded(), second.getBookingsSucceeded());
+        assertEquals(first.getBookingsRejected(), second.getBookingsRejected());
+        assertTrue(first.getBookingsRejected() > 0);
+    }
+
+    @Test
+    @DisplayName("Concurrent run never overbooks and seat totals add up")
+    void testRun_MultipleThreads_InvariantsHold() throws InterruptedException {
+        SimulationReport report = new LoadSimulation(smallConfig(8)).run();
+
+        assertTrue(report.passed(), report.toString());
+        assertEquals(5_000, report.getOverallLatency().getCount());
+        assertEquals(report.getBookingsSucceeded() + report.getBookingsRejected(),
+                report.getLatency(Operation.Type.BOOK).getCount());
+    }
+
+    @Test
+    @DisplayName("Workload sequence does not depend on the number of threads")
+    void testWorkload_DifferentThreadCounts_SameOperations() {
+        List<Operation> single = generateSequence(smallConfig(1));
+        List<Operation> dealt = generateSequence(smallConfig(4));
+
+        assertEquals(5_000, single.size());
+        assertEquals(single.size(), dealt.size());
+        for (int i = 0; i < single.size(); i++) {
+            Operation expected = single.get(i);
+            Operation actual = dealt.get(i);
+            assertEquals(expected.getType(), actual.getType(), "type at " + i);
+            assertEquals(expected.getDestination(), actual.getDestination(), "destination at " + i);
+            assertEquals(expected.getDate(), actual.getDate(), "date at " + i);
+            assertEquals(expected.getFlightNumber(), actual.getFlightNumber(), "flight number at " + i);
+            assertEquals(expected.getCustomerName(), actual.getCustomerName(), "customer at " + i);
+            assertEquals(expected.getSeats(), actual.getSeats(), "seats at " + i);
+        }
+    }
+
+    /**
+     * Generates the workload and merges the round-robin worker lists back into one sequence.
+     */
+    private static List<Operation> generateSequence(SimulationConfig config) {
+        List<List<Operation>> workers =
+                new WorkloadGenerator(config, new ScheduleGenerator(config).generate()).generate();
+        List<Operation> sequence = new ArrayList<>(config.getOperations());
+        for (int i = 0; i < config.getOperations(); i++) {
+            sequence.add(workers.get(i % workers.size()).get(i / workers.size()));
+        }
+        return sequence;
+    }
+
+    @Test
+    @DisplayName("Lookup benchmark indexed results match the baseline scans")
+    void testLookupBenchmark_IndexedMatchesBaseline() {
+        String results = new LookupBenchmark(smallConfig(1)).run();
+
+        assertTrue(results.contains("getReservationsByCustomer  indexed"), results);
+    }
+
+    @Test
+    @DisplayName("Zipf distribution favours low ranks")
+    void testZipfDistribution_SkewsTowardsFirstRank() {
+        ZipfDistribution zipf = new ZipfDistribution(100, 1.0);
+        Random random = new Random(1);
+        int[] hits = new int[100];
+        for (int i = 0; i < 10_000; i++) {
+            hits[zipf.sample(random)]++;
+        }
+
+        assertTrue(hits[0] > hits[9]);
+        assertTrue(hits[9] > hits[99]);
+    }
+
+    @Test
+    @DisplayName("Invalid traffic mix throws exception")
+    void testConfig_InvalidMix_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            SimulationConfig.fromArgs(new String[]{"--search=80", "--book=30"})
+        );
+    }
+}